@@ -9,10 +9,12 @@ import com.google.gson.GsonBuilder;
 import calculator.expression.ExpressionEvaluator;
 import calculator.factory.*;
 import calculator.model.InputData;
+import calculator.output.*;
 import calculator.strategy.*;
 
 import java.io.FileReader;
 import java.io.IOException;
+import java.nio.file.Paths;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -44,6 +46,7 @@ public class Main {
     public static void main(String[] args) {
         // utworzenie fabryki operacji
         OperationFactory factory = new OperationFactoryImpl();
+        ResultWriterFactory writerFactory = new ResultWriterFactoryImpl();
         Scanner scanner = new Scanner(System.in);
 
         System.out.println("Wybierz tryb pracy:");
@@ -52,9 +55,9 @@ public class Main {
         int choice = Integer.parseInt(scanner.nextLine());
 
         if (choice == 1) {
-            handleKeyboardInput(factory, scanner);
+            handleKeyboardInput(factory, writerFactory, scanner);
         } else if (choice == 2) {
-            handleFileInput(factory, scanner);
+            handleFileInput(factory, writerFactory, scanner);
         } else {
             System.out.println("Nieprawidłowy wybór.");
         }
@@ -63,7 +66,7 @@ public class Main {
     /*
      * Obsługa wejścia z klawiatury.
      */
-    private static void handleKeyboardInput(OperationFactory factory, Scanner scanner) {
+    private static void handleKeyboardInput(OperationFactory factory, ResultWriterFactory writerFactory, Scanner scanner) {
         System.out.println("Wybierz typ operacji:");
         System.out.println("1. Podstawowe operacje");
         System.out.println("2. Wyrażenie złożone");
@@ -78,7 +81,7 @@ public class Main {
                 handleComplexExpression(factory, scanner);
                 break;
             case 3:
-                handleMatrixOperations(factory, scanner);
+                handleMatrixOperations(factory, writerFactory, scanner);
                 break;
             default:
                 System.out.println("Nieprawidłowy wybór.");
@@ -139,9 +142,9 @@ public class Main {
     /*
      * Obsługa operacji na macierzach.
      */
-    private static void handleMatrixOperations(OperationFactory factory, Scanner scanner) {
+    private static void handleMatrixOperations(OperationFactory factory, ResultWriterFactory writerFactory, Scanner scanner) {
         // pobranie od użytkownika typu operacji na macierzach
-        System.out.print("Podaj operację na macierzach (+, *): ");
+        System.out.print("Podaj operację na macierzach (+, *, lu, solve, det, inverse): ");
         String operation = scanner.nextLine();
 
         // wczytanie pierwszej macierzy
@@ -149,30 +152,50 @@ public class Main {
         double[][] matrixA = readMatrix(scanner);
 
         // wczytanie drugiej macierzy
-        System.out.println("Podaj elementy drugiej macierzy wierszami. Wpisz pustą linię, aby zakończyć wprowadzanie:");
+        System.out.println("Podaj elementy drugiej macierzy wierszami (dla lu, det i inverse można pominąć). Wpisz pustą linię, aby zakończyć wprowadzanie:");
         double[][] matrixB = readMatrix(scanner);
 
+        // pobranie formatu i miejsca zapisu wyniku
+        System.out.print("Podaj format wyniku (text, binary, ndjson) lub pustą linię dla text: ");
+        String format = scanner.nextLine().trim();
+        if (format.isEmpty()) {
+            format = "text";
+        }
+        System.out.print("Podaj ścieżkę pliku wyniku lub pustą linię, aby wypisać wynik na ekran: ");
+        String outputPath = scanner.nextLine().trim();
+
         try {
             // utworzenie strategii operacji macierzowej za pomocą fabryki
             MatrixOperationStrategy strategy = factory.createMatrixOperation(operation);
-            handleMatrixOp(matrixA, matrixB, strategy);
-        } catch (UnsupportedOperationException | IllegalArgumentException e) {
+            MatrixResultWriter writer = writerFactory.createResultWriter(format);
+            handleMatrixOp(matrixA, matrixB, strategy, writer, outputPath.isEmpty() ? null : outputPath);
+        } catch (ArithmeticException | UnsupportedOperationException | IllegalArgumentException e) {
             System.out.println("Błąd: " + e.getMessage());
         }
     }
 
     /*
-     * Wyświetla macierz na stdout
+     * Zapisuje wynik operacji na macierzach na stdout lub do pliku, jeśli podano ścieżkę.
+     * Formaty binary i ndjson wymagają pliku, ponieważ stdout zawiera też komunikaty menu.
      */
-    private static void handleMatrixOp(double[][] matrixA, double[][] matrixB, MatrixOperationStrategy strategy) {
+    private static void handleMatrixOp(double[][] matrixA, double[][] matrixB, MatrixOperationStrategy strategy,
+                                       MatrixResultWriter writer, String outputPath) {
+        if (outputPath == null && !(writer instanceof TextMatrixResultWriter)) {
+            throw new IllegalArgumentException("Formaty binary i ndjson wymagają podania ścieżki pliku wyniku.");
+        }
+
         double[][] result = strategy.execute(matrixA, matrixB);
 
-        System.out.println("Wynik operacji na macierzach:");
-        for (double[] row : result) {
-            for (double elem : row) {
-                System.out.print(elem + " ");
+        try {
+            if (outputPath != null) {
+                writer.write(result, Paths.get(outputPath));
+                System.out.println("Wynik zapisano do pliku: " + outputPath);
+            } else {
+                System.out.println("Wynik operacji na macierzach:");
+                writer.write(result, System.out);
             }
-            System.out.println();
+        } catch (IOException e) {
+            System.out.println("Błąd zapisu wyniku: " + e.getMessage());
         }
     }
 
@@ -208,7 +231,7 @@ public class Main {
     /*
      * Obsługa wejścia z pliku JSON.
      */
-    private static void handleFileInput(OperationFactory factory, Scanner scanner) {
+    private static void handleFileInput(OperationFactory factory, ResultWriterFactory writerFactory, Scanner scanner) {
         Gson gson = new GsonBuilder().create();
 
         System.out.print("Podaj ścieżkę do pliku: ");
@@ -223,12 +246,16 @@ public class Main {
                 ExpressionEvaluator evaluator = new ExpressionEvaluator(factory);
                 double result = evaluator.evaluate(inputData.getExpression());
                 System.out.println("Wynik: " + result);
-            } else if (inputData.getMatrixA() != null && inputData.getMatrixB() != null) {
-                // operacje na macierzach
+            } else if (inputData.getMatrixA() != null) {
+                // operacje na macierzach, macierz B nie jest wymagana dla lu, det i inverse
                 MatrixOperationStrategy strategy = factory.createMatrixOperation(inputData.getOperation());
                 double[][] matrixA = convertListToArray(inputData.getMatrixA());
-                double[][] matrixB = convertListToArray(inputData.getMatrixB());
-                handleMatrixOp(matrixA, matrixB, strategy);
+                double[][] matrixB = inputData.getMatrixB() != null
+                        ? convertListToArray(inputData.getMatrixB())
+                        : new double[0][];
+                String format = inputData.getOutputFormat() != null ? inputData.getOutputFormat() : "text";
+                MatrixResultWriter writer = writerFactory.createResultWriter(format);
+                handleMatrixOp(matrixA, matrixB, strategy, writer, inputData.getOutputPath());
             } else if (inputData.getNumbers() != null) {
                 // operacje podstawowe
                 OperationStrategy strategy = factory.createOperation(inputData.getOperation());
@@ -243,7 +270,7 @@ public class Main {
 
         } catch (IOException e) {
             System.out.println("Błąd odczytu pliku: " + e.getMessage());
-        } catch (ArithmeticException | UnsupportedOperationException e) {
+        } catch (ArithmeticException | UnsupportedOperationException | IllegalArgumentException e) {
             System.out.println("Błąd: " + e.getMessage());
         }
     }
@@ -36,6 +36,16 @@ public class OperationFactoryImpl implements OperationFactory {
             case "matrix_multiply":
             case "*":
                 return new MatrixMultiplicationStrategy();
+            case "lu":
+                return new LUDecompositionStrategy();
+            case "solve":
+                return new LinearSolveStrategy();
+            case "det":
+            case "determinant":
+                return new DeterminantStrategy();
+            case "inverse":
+            case "inv":
+                return new MatrixInverseStrategy();
             default:
                 throw new UnsupportedOperationException("Operacja macierzowa nie jest wspierana.");
         }
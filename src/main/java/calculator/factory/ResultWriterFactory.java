@@ -0,0 +1,10 @@
+package calculator.factory;
+
+import calculator.output.MatrixResultWriter;
+
+/**
+ * Interfejs Fabryki Abstrakcyjnej do tworzenia obiektów zapisujących wynik operacji macierzowej.
+ */
+public interface ResultWriterFactory {
+    MatrixResultWriter createResultWriter(String format);
+}
@@ -0,0 +1,25 @@
+package calculator.factory;
+
+import calculator.output.*;
+
+/**
+ * Implementacja Fabryki Abstrakcyjnej tworzącej obiekty zapisu wyniku w wybranym formacie.
+ */
+public class ResultWriterFactoryImpl implements ResultWriterFactory {
+    @Override
+    public MatrixResultWriter createResultWriter(String format) {
+        switch (format.toLowerCase()) {
+            case "text":
+            case "txt":
+                return new TextMatrixResultWriter();
+            case "binary":
+            case "bin":
+                return new BinaryMatrixResultWriter();
+            case "ndjson":
+            case "jsonl":
+                return new NdjsonMatrixResultWriter();
+            default:
+                throw new UnsupportedOperationException("Format wyniku nie jest wspierany.");
+        }
+    }
+}
@@ -8,6 +8,8 @@ public class InputData {
     private List<List<Double>> matrixA;
     private List<List<Double>> matrixB;
     private String expression;
+    private String outputFormat;
+    private String outputPath;
 
     public String getOperation() {
         return operation;
@@ -48,4 +50,20 @@ public class InputData {
     public void setExpression(String expression) {
         this.expression = expression;
     }
+
+    public String getOutputFormat() {
+        return outputFormat;
+    }
+
+    public void setOutputFormat(String outputFormat) {
+        this.outputFormat = outputFormat;
+    }
+
+    public String getOutputPath() {
+        return outputPath;
+    }
+
+    public void setOutputPath(String outputPath) {
+        this.outputPath = outputPath;
+    }
 }
@@ -0,0 +1,70 @@
+package calculator.output;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Duży bufor bajtów dla zapisu tekstowego.
+ * Liczby formatowane są do jednego, wielokrotnie używanego StringBuilder-a,
+ * a następnie kopiowane znak po znaku jako ASCII - bez tworzenia obiektów String
+ * i bez wywołań synchronizowanego PrintStream dla każdego elementu.
+ */
+class AsciiBuffer {
+    static final int DEFAULT_CAPACITY = 1 << 16;
+
+    private final OutputStream out;
+    private final byte[] buffer;
+    private final StringBuilder number = new StringBuilder(32);
+    private int position;
+
+    AsciiBuffer(OutputStream out, int capacity) {
+        this.out = out;
+        this.buffer = new byte[capacity];
+    }
+
+    void append(double value) throws IOException {
+        number.setLength(0);
+        number.append(value);
+        append(number);
+    }
+
+    void append(CharSequence text) throws IOException {
+        int length = text.length();
+        int i = 0;
+        // tekst dłuższy niż bufor zapisywany jest w kilku porcjach
+        while (i < length) {
+            if (position == buffer.length) {
+                drain();
+            }
+            int end = Math.min(length, i + buffer.length - position);
+            while (i < end) {
+                buffer[position++] = (byte) text.charAt(i++);
+            }
+        }
+    }
+
+    void append(char c) throws IOException {
+        if (position == buffer.length) {
+            drain();
+        }
+        buffer[position++] = (byte) c;
+    }
+
+    void append(int value) throws IOException {
+        number.setLength(0);
+        number.append(value);
+        append(number);
+    }
+
+    void flush() throws IOException {
+        drain();
+        out.flush();
+    }
+
+    private void drain() throws IOException {
+        if (position > 0) {
+            out.write(buffer, 0, position);
+            position = 0;
+        }
+    }
+}
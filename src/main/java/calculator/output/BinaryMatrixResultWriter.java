@@ -0,0 +1,69 @@
+package calculator.output;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.file.Path;
+
+/**
+ * Zwarty zapis binarny.
+ * Nagłówek: 4 bajty znacznika "MTX1", liczba wierszy i liczba kolumn (int),
+ * następnie elementy wierszami jako double, wszystko w kolejności big-endian
+ * (zgodnej z DataInputStream).
+ */
+public class BinaryMatrixResultWriter implements MatrixResultWriter {
+    private static final byte[] MAGIC = {'M', 'T', 'X', '1'};
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    @Override
+    public void write(double[][] matrix, OutputStream out) throws IOException {
+        int rows = matrix.length;
+        int cols = requireRectangular(matrix);
+
+        ByteBuffer bytes = ByteBuffer.allocate(BUFFER_SIZE).order(ByteOrder.BIG_ENDIAN);
+        bytes.put(MAGIC).putInt(rows).putInt(cols);
+        out.write(bytes.array(), 0, bytes.position());
+
+        // wiersze kopiowane są hurtowo przez widok DoubleBuffer zamiast element po elemencie
+        bytes.clear();
+        DoubleBuffer doubles = bytes.asDoubleBuffer();
+        for (double[] row : matrix) {
+            int offset = 0;
+            while (offset < cols) {
+                int count = Math.min(doubles.remaining(), cols - offset);
+                doubles.put(row, offset, count);
+                offset += count;
+                if (!doubles.hasRemaining()) {
+                    out.write(bytes.array(), 0, doubles.position() * Double.BYTES);
+                    doubles.clear();
+                }
+            }
+        }
+        out.write(bytes.array(), 0, doubles.position() * Double.BYTES);
+        out.flush();
+    }
+
+    /*
+     * Sprawdzenie przed otwarciem pliku, aby nie nadpisać go niepełnym wynikiem.
+     */
+    @Override
+    public void write(double[][] matrix, Path path) throws IOException {
+        requireRectangular(matrix);
+        MatrixResultWriter.super.write(matrix, path);
+    }
+
+    /*
+     * Nagłówek zawiera jedną liczbę kolumn, więc wszystkie wiersze sprawdzane są przed zapisem czegokolwiek.
+     */
+    private static int requireRectangular(double[][] matrix) {
+        int cols = matrix.length == 0 ? 0 : matrix[0].length;
+        for (double[] row : matrix) {
+            if (row.length != cols) {
+                throw new IllegalArgumentException("Wszystkie wiersze muszą mieć tę samą liczbę kolumn.");
+            }
+        }
+        return cols;
+    }
+}
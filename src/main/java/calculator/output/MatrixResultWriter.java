@@ -0,0 +1,35 @@
+package calculator.output;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Interfejs Strategii zapisu wyniku operacji macierzowej.
+ * Implementacje buforują dane same, więc strumień docelowy nie musi być buforowany.
+ * Strumień jest na końcu opróżniany (flush), ale nie zamykany.
+ */
+public interface MatrixResultWriter {
+    void write(double[][] matrix, OutputStream out) throws IOException;
+
+    /*
+     * Zapis do dowolnego kanału, np. gniazda lub potoku.
+     */
+    default void write(double[][] matrix, WritableByteChannel channel) throws IOException {
+        write(matrix, Channels.newOutputStream(channel));
+    }
+
+    /*
+     * Zapis do pliku, istniejący plik jest nadpisywany.
+     */
+    default void write(double[][] matrix, Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            write(matrix, channel);
+        }
+    }
+}
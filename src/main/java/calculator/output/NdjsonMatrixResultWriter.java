@@ -0,0 +1,35 @@
+package calculator.output;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Zapis w formacie NDJSON - jeden obiekt JSON na wiersz macierzy, np.
+ * {"row":0,"values":[1.0,2.0]}
+ * Dzięki temu wynik można przetwarzać strumieniowo, wiersz po wierszu.
+ * JSON nie obsługuje NaN ani nieskończoności, dlatego takie wartości zapisywane są jako null.
+ */
+public class NdjsonMatrixResultWriter implements MatrixResultWriter {
+    @Override
+    public void write(double[][] matrix, OutputStream out) throws IOException {
+        AsciiBuffer buffer = new AsciiBuffer(out, AsciiBuffer.DEFAULT_CAPACITY);
+        for (int i = 0; i < matrix.length; i++) {
+            buffer.append("{\"row\":");
+            buffer.append(i);
+            buffer.append(",\"values\":[");
+            double[] row = matrix[i];
+            for (int j = 0; j < row.length; j++) {
+                if (j > 0) {
+                    buffer.append(',');
+                }
+                if (Double.isNaN(row[j]) || Double.isInfinite(row[j])) {
+                    buffer.append("null");
+                } else {
+                    buffer.append(row[j]);
+                }
+            }
+            buffer.append("]}\n");
+        }
+        buffer.flush();
+    }
+}
@@ -0,0 +1,25 @@
+package calculator.output;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Zapis tekstowy - wiersz macierzy w linii, elementy oddzielone spacją.
+ * Format jest taki sam jak dotychczasowy wydruk na konsolę, łącznie z separatorem linii systemu.
+ */
+public class TextMatrixResultWriter implements MatrixResultWriter {
+    private static final String LINE_SEPARATOR = System.lineSeparator();
+
+    @Override
+    public void write(double[][] matrix, OutputStream out) throws IOException {
+        AsciiBuffer buffer = new AsciiBuffer(out, AsciiBuffer.DEFAULT_CAPACITY);
+        for (double[] row : matrix) {
+            for (double elem : row) {
+                buffer.append(elem);
+                buffer.append(' ');
+            }
+            buffer.append(LINE_SEPARATOR);
+        }
+        buffer.flush();
+    }
+}
@@ -0,0 +1,11 @@
+package calculator.strategy;
+
+/**
+ * Wyznacznik macierzy A jako macierz 1x1, macierz B jest ignorowana.
+ */
+public class DeterminantStrategy implements MatrixOperationStrategy {
+    @Override
+    public double[][] execute(double[][] a, double[][] b) {
+        return new double[][]{{LUDecomposition.of(a).determinant()}};
+    }
+}
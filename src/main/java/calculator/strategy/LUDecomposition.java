@@ -0,0 +1,407 @@
+package calculator.strategy;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Blokowy rozkład LU z częściowym wyborem elementu głównego: P * A = L * U.
+ * Wspólny dla strategii LU, rozwiązywania układów, wyznacznika i odwrotności.
+ *
+ * Macierz dzielona jest na panele po BLOCK_SIZE kolumn. Panel rozkładany jest sekwencyjnie,
+ * a aktualizacja pozostałej części macierzy (A22 -= L21 * U12), która stanowi prawie całą pracę,
+ * wykonywana jest równolegle w puli fork/join na kafelkach mieszczących się w pamięci podręcznej.
+ * Podstawienia w przód i wstecz korzystają z tego samego podziału na panele wierszy.
+ * Zamiana wierszy to tylko zamiana referencji w tablicy double[][].
+ *
+ * Przez błędy zaokrągleń element główny macierzy osobliwej praktycznie nigdy nie jest dokładnym zerem,
+ * dlatego macierz uznawana jest za osobliwą, gdy element główny w kolumnie j nie przekracza
+ * n * ulp(1) * min(max|A[*][j]|, max|A[p][*]|), gdzie p to oryginalny wiersz elementu głównego.
+ * Test porównuje element z jego własną kolumną i wierszem, więc nie zależy od skalowania
+ * wierszy ani kolumn (np. diag(1e20, 1) nie jest osobliwa). Wyznacznik nie korzysta z tego testu.
+ */
+final class LUDecomposition {
+    private static final int BLOCK_SIZE = 64;
+    private static final int COLUMN_TILE = 256;
+    // minimalna liczba mnożeń w jednym zadaniu fork/join
+    private static final long PARALLEL_GRAIN = 1L << 18;
+
+    private final double[][] lu;
+    private final int[] permutation;
+    private final int n;
+    // maksymalne moduły oryginalnych wierszy i kolumn, przeskalowane o n * ulp(1)
+    private final double[] rowTolerance;
+    private final double[] columnTolerance;
+    private int swaps;
+    private boolean singular;
+
+    private LUDecomposition(double[][] a) {
+        this.n = a.length;
+        this.lu = new double[n][];
+        this.permutation = new int[n];
+        this.rowTolerance = new double[n];
+        this.columnTolerance = new double[n];
+        double scale = n * Math.ulp(1.0);
+        for (int i = 0; i < n; i++) {
+            lu[i] = a[i].clone();
+            permutation[i] = i;
+            for (int j = 0; j < n; j++) {
+                double value = Math.abs(lu[i][j]);
+                rowTolerance[i] = Math.max(rowTolerance[i], value);
+                columnTolerance[j] = Math.max(columnTolerance[j], value);
+            }
+        }
+        for (int i = 0; i < n; i++) {
+            rowTolerance[i] *= scale;
+            columnTolerance[i] *= scale;
+        }
+        factorize();
+    }
+
+    /*
+     * Rozkłada kopię macierzy, macierz wejściowa nie jest modyfikowana.
+     */
+    static LUDecomposition of(double[][] a) {
+        requireSquare(a);
+        return new LUDecomposition(a);
+    }
+
+    static void requireSquare(double[][] a) {
+        if (a.length == 0) {
+            throw new IllegalArgumentException("Nie można wykonać operacji na pustych macierzach.");
+        }
+        for (double[] row : a) {
+            if (row.length != a.length) {
+                throw new IllegalArgumentException("Macierz musi być kwadratowa.");
+            }
+        }
+    }
+
+    /*
+     * Macierze L (pod przekątną, jedynki na przekątnej pominięte) i U upakowane w jednej macierzy.
+     */
+    double[][] packed() {
+        double[][] result = new double[n][];
+        for (int i = 0; i < n; i++) {
+            result[i] = lu[i].clone();
+        }
+        return result;
+    }
+
+    /*
+     * permutation[i] to indeks wiersza macierzy A, który trafił na pozycję i.
+     */
+    int[] permutation() {
+        return permutation.clone();
+    }
+
+    /*
+     * Iloczyn elementów głównych ze znakiem permutacji, kolumna zerowa daje dokładnie 0.
+     */
+    double determinant() {
+        double det = (swaps & 1) == 0 ? 1.0 : -1.0;
+        for (int i = 0; i < n; i++) {
+            det *= lu[i][i];
+        }
+        return det;
+    }
+
+    /*
+     * Rozwiązuje A * X = B dla wszystkich kolumn B jednocześnie.
+     */
+    double[][] solve(double[][] b) {
+        if (b.length != n) {
+            throw new IllegalArgumentException("Liczba wierszy macierzy B musi być równa rozmiarowi macierzy A.");
+        }
+        requireRegular();
+        int cols = b[0].length;
+        double[][] x = new double[n][];
+        for (int i = 0; i < n; i++) {
+            if (b[permutation[i]].length != cols) {
+                throw new IllegalArgumentException("Wszystkie wiersze muszą mieć tę samą liczbę kolumn.");
+            }
+            x[i] = b[permutation[i]].clone();
+        }
+        forward(x, false);
+        backward(x);
+        return x;
+    }
+
+    /*
+     * A^-1 = U^-1 * L^-1 * P. Macierz L^-1 jest dolnotrójkątna, więc podstawienie w przód
+     * pomija zerowe wiersze każdej kolumny, a permutacja stosowana jest na końcu do kolumn.
+     */
+    double[][] inverse() {
+        requireRegular();
+        double[][] x = new double[n][n];
+        for (int i = 0; i < n; i++) {
+            x[i][i] = 1.0;
+        }
+        forward(x, true);
+        backward(x);
+
+        double[][] result = new double[n][n];
+        for (int i = 0; i < n; i++) {
+            double[] xi = x[i];
+            double[] ri = result[i];
+            for (int j = 0; j < n; j++) {
+                ri[permutation[j]] = xi[j];
+            }
+        }
+        return result;
+    }
+
+    private void requireRegular() {
+        if (singular) {
+            throw new ArithmeticException("Macierz jest osobliwa.");
+        }
+    }
+
+    /*
+     * L * Y = X panelami wierszy. Dla dolnotrójkątnej prawej strony kolumny
+     * od pEnd w górę są w bieżącym panelu zerowe i nie są przetwarzane.
+     */
+    private void forward(double[][] x, boolean lowerTriangular) {
+        int cols = x[0].length;
+        for (int p0 = 0; p0 < n; p0 += BLOCK_SIZE) {
+            int pEnd = Math.min(p0 + BLOCK_SIZE, n);
+            int colTo = lowerTriangular ? Math.min(cols, pEnd) : cols;
+
+            ForkJoinPool.commonPool().invoke(new PanelSolve(lu, x, p0, pEnd, 0, colTo, false));
+            if (pEnd < n) {
+                ForkJoinPool.commonPool().invoke(new BlockUpdate(lu, x, p0, pEnd, pEnd, n, 0, colTo));
+            }
+        }
+    }
+
+    /*
+     * U * X = Y panelami wierszy, od dołu macierzy.
+     */
+    private void backward(double[][] x) {
+        int cols = x[0].length;
+        for (int pEnd = n; pEnd > 0; ) {
+            int p0 = ((pEnd - 1) / BLOCK_SIZE) * BLOCK_SIZE;
+
+            ForkJoinPool.commonPool().invoke(new PanelSolve(lu, x, p0, pEnd, 0, cols, true));
+            if (p0 > 0) {
+                ForkJoinPool.commonPool().invoke(new BlockUpdate(lu, x, p0, pEnd, 0, p0, 0, cols));
+            }
+            pEnd = p0;
+        }
+    }
+
+    private void factorize() {
+        for (int k0 = 0; k0 < n; k0 += BLOCK_SIZE) {
+            int kEnd = Math.min(k0 + BLOCK_SIZE, n);
+
+            factorizePanel(k0, kEnd);
+
+            if (kEnd < n) {
+                // U12 = L11^-1 * A12
+                ForkJoinPool.commonPool().invoke(new PanelSolve(lu, lu, k0, kEnd, kEnd, n, false));
+                // A22 -= L21 * U12
+                ForkJoinPool.commonPool().invoke(new BlockUpdate(lu, lu, k0, kEnd, kEnd, n, kEnd, n));
+            }
+        }
+    }
+
+    /*
+     * Nieblokowa eliminacja Gaussa ograniczona do kolumn panelu [k0, kEnd).
+     */
+    private void factorizePanel(int k0, int kEnd) {
+        for (int j = k0; j < kEnd; j++) {
+            int pivot = j;
+            double max = Math.abs(lu[j][j]);
+            for (int i = j + 1; i < n; i++) {
+                double value = Math.abs(lu[i][j]);
+                if (value > max) {
+                    max = value;
+                    pivot = i;
+                }
+            }
+
+            if (max == 0.0) {
+                // kolumna zerowa - nie ma czego eliminować, rozkład można dokończyć
+                singular = true;
+                continue;
+            }
+            if (max <= Math.min(columnTolerance[j], rowTolerance[permutation[pivot]])) {
+                singular = true;
+            }
+
+            if (pivot != j) {
+                double[] row = lu[pivot];
+                lu[pivot] = lu[j];
+                lu[j] = row;
+                int index = permutation[pivot];
+                permutation[pivot] = permutation[j];
+                permutation[j] = index;
+                swaps++;
+            }
+
+            double[] aj = lu[j];
+            double inverse = 1.0 / aj[j];
+            for (int i = j + 1; i < n; i++) {
+                double[] ai = lu[i];
+                double l = ai[j] * inverse;
+                ai[j] = l;
+                if (l == 0.0) {
+                    continue;
+                }
+                for (int c = j + 1; c < kEnd; c++) {
+                    ai[c] -= l * aj[c];
+                }
+            }
+        }
+    }
+
+    /*
+     * x[i][c] -= lu[i][r] * x[r][c] dla wierszy [rowFrom, rowTo), wierszy panelu [k0, kEnd)
+     * i kolumn [colFrom, colTo). Aktualizacja A22 w rozkładzie (x == lu) oraz
+     * aktualizacja pozostałych wierszy przy podstawieniach w przód i wstecz.
+     */
+    @SuppressWarnings("serial")
+    private static final class BlockUpdate extends RecursiveAction {
+        private final double[][] lu;
+        private final double[][] x;
+        private final int k0;
+        private final int kEnd;
+        private final int rowFrom;
+        private final int rowTo;
+        private final int colFrom;
+        private final int colTo;
+
+        BlockUpdate(double[][] lu, double[][] x, int k0, int kEnd, int rowFrom, int rowTo, int colFrom, int colTo) {
+            this.lu = lu;
+            this.x = x;
+            this.k0 = k0;
+            this.kEnd = kEnd;
+            this.rowFrom = rowFrom;
+            this.rowTo = rowTo;
+            this.colFrom = colFrom;
+            this.colTo = colTo;
+        }
+
+        @Override
+        protected void compute() {
+            int rows = rowTo - rowFrom;
+            int width = colTo - colFrom;
+            long work = (long) rows * width * (kEnd - k0);
+            if (work > PARALLEL_GRAIN) {
+                if (rows >= 2 && rows >= width / COLUMN_TILE) {
+                    int mid = (rowFrom + rowTo) >>> 1;
+                    invokeAll(new BlockUpdate(lu, x, k0, kEnd, rowFrom, mid, colFrom, colTo),
+                            new BlockUpdate(lu, x, k0, kEnd, mid, rowTo, colFrom, colTo));
+                    return;
+                }
+                if (width >= 32) {
+                    int mid = (colFrom + colTo) >>> 1;
+                    invokeAll(new BlockUpdate(lu, x, k0, kEnd, rowFrom, rowTo, colFrom, mid),
+                            new BlockUpdate(lu, x, k0, kEnd, rowFrom, rowTo, mid, colTo));
+                    return;
+                }
+            }
+            update();
+        }
+
+        private void update() {
+            // kafelek wierszy panelu o szerokości COLUMN_TILE pozostaje w pamięci podręcznej
+            for (int c0 = colFrom; c0 < colTo; c0 += COLUMN_TILE) {
+                int c1 = Math.min(c0 + COLUMN_TILE, colTo);
+                for (int i = rowFrom; i < rowTo; i++) {
+                    double[] li = lu[i];
+                    double[] xi = x[i];
+                    for (int r = k0; r < kEnd; r++) {
+                        double l = li[r];
+                        if (l == 0.0) {
+                            continue;
+                        }
+                        double[] xr = x[r];
+                        for (int c = c0; c < c1; c++) {
+                            xi[c] -= l * xr[c];
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /*
+     * Rozwiązanie układu trójkątnego o rozmiarze panelu [p0, pEnd) dla kolumn [colFrom, colTo):
+     * L11 (jedynki na przekątnej) lub U11, dzielone rekurencyjnie po niezależnych kolumnach.
+     */
+    @SuppressWarnings("serial")
+    private static final class PanelSolve extends RecursiveAction {
+        private final double[][] lu;
+        private final double[][] x;
+        private final int p0;
+        private final int pEnd;
+        private final int colFrom;
+        private final int colTo;
+        private final boolean upper;
+
+        PanelSolve(double[][] lu, double[][] x, int p0, int pEnd, int colFrom, int colTo, boolean upper) {
+            this.lu = lu;
+            this.x = x;
+            this.p0 = p0;
+            this.pEnd = pEnd;
+            this.colFrom = colFrom;
+            this.colTo = colTo;
+            this.upper = upper;
+        }
+
+        @Override
+        protected void compute() {
+            int size = pEnd - p0;
+            int width = colTo - colFrom;
+            if (width > COLUMN_TILE || ((long) size * size * width > PARALLEL_GRAIN && width >= 32)) {
+                int mid = (colFrom + colTo) >>> 1;
+                invokeAll(new PanelSolve(lu, x, p0, pEnd, colFrom, mid, upper),
+                        new PanelSolve(lu, x, p0, pEnd, mid, colTo, upper));
+                return;
+            }
+            if (upper) {
+                solveUpper();
+            } else {
+                solveLower();
+            }
+        }
+
+        private void solveLower() {
+            for (int i = p0 + 1; i < pEnd; i++) {
+                double[] li = lu[i];
+                double[] xi = x[i];
+                for (int r = p0; r < i; r++) {
+                    double l = li[r];
+                    if (l == 0.0) {
+                        continue;
+                    }
+                    double[] xr = x[r];
+                    for (int c = colFrom; c < colTo; c++) {
+                        xi[c] -= l * xr[c];
+                    }
+                }
+            }
+        }
+
+        private void solveUpper() {
+            for (int i = pEnd - 1; i >= p0; i--) {
+                double[] ui = lu[i];
+                double[] xi = x[i];
+                for (int r = i + 1; r < pEnd; r++) {
+                    double u = ui[r];
+                    if (u == 0.0) {
+                        continue;
+                    }
+                    double[] xr = x[r];
+                    for (int c = colFrom; c < colTo; c++) {
+                        xi[c] -= u * xr[c];
+                    }
+                }
+                double inverse = 1.0 / ui[i];
+                for (int c = colFrom; c < colTo; c++) {
+                    xi[c] *= inverse;
+                }
+            }
+        }
+    }
+}
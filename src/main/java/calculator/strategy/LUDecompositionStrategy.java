@@ -0,0 +1,26 @@
+package calculator.strategy;
+
+/**
+ * Rozkład LU macierzy A, macierz B jest ignorowana.
+ * Wynik ma n + 1 wierszy: pierwsze n to upakowane macierze L i U (P * A = L * U),
+ * ostatni wiersz to permutacja - indeksy wierszy macierzy A w kolejności po wyborze elementów głównych.
+ * Rozkład z częściowym wyborem istnieje także dla macierzy osobliwej, wtedy U ma zero (lub wartość
+ * bliską zeru) na przekątnej, dlatego czynniki zwracane są bez błędu.
+ */
+public class LUDecompositionStrategy implements MatrixOperationStrategy {
+    @Override
+    public double[][] execute(double[][] a, double[][] b) {
+        LUDecomposition lu = LUDecomposition.of(a);
+        double[][] packed = lu.packed();
+        int[] permutation = lu.permutation();
+        double[][] result = new double[a.length + 1][];
+        System.arraycopy(packed, 0, result, 0, packed.length);
+
+        double[] pivots = new double[permutation.length];
+        for (int i = 0; i < permutation.length; i++) {
+            pivots[i] = permutation[i];
+        }
+        result[a.length] = pivots;
+        return result;
+    }
+}
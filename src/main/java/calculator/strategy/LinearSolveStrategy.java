@@ -0,0 +1,14 @@
+package calculator.strategy;
+
+/**
+ * Rozwiązuje układ równań A * X = B, każda kolumna B to osobna prawa strona.
+ */
+public class LinearSolveStrategy implements MatrixOperationStrategy {
+    @Override
+    public double[][] execute(double[][] a, double[][] b) {
+        if (b.length == 0) {
+            throw new IllegalArgumentException("Nie można wykonać operacji na pustych macierzach.");
+        }
+        return LUDecomposition.of(a).solve(b);
+    }
+}
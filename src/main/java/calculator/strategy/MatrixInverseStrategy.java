@@ -0,0 +1,11 @@
+package calculator.strategy;
+
+/**
+ * Macierz odwrotna do A, macierz B jest ignorowana.
+ */
+public class MatrixInverseStrategy implements MatrixOperationStrategy {
+    @Override
+    public double[][] execute(double[][] a, double[][] b) {
+        return LUDecomposition.of(a).inverse();
+    }
+}